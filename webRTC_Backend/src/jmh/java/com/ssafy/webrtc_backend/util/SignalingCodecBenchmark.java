@@ -0,0 +1,75 @@
+// SignalingCodecBenchmark.java - JSON / CBOR 코덱 단독 비교
+
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통화 1회 설정에 오가는 메시지를 두 프로토콜로 인코딩/디코딩하는 비용만 측정한다 (메시지 1개당 시간).
+ * 핸들러 처리와 전송 바이트 수는 SignalingHandlerBenchmark 에서 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@OperationsPerInvocation(CallSetupFixture.CLIENT_MESSAGES_PER_CALL + CallSetupFixture.SERVER_MESSAGES_PER_CALL)
+public class SignalingCodecBenchmark {
+
+    private List<JsonNode> messages;
+    private List<String> jsonPayloads;
+    private List<byte[]> cborPayloads;
+
+    @Setup
+    public void setup() throws Exception {
+        messages = new ArrayList<>(CallSetupFixture.clientMessages());
+        messages.addAll(CallSetupFixture.serverMessages());
+        jsonPayloads = new ArrayList<>();
+        cborPayloads = new ArrayList<>();
+
+        for (JsonNode message : messages) {
+            jsonPayloads.add(SignalingCodec.encodeJson(message));
+            cborPayloads.add(SignalingCodec.encodeCbor(message));
+        }
+    }
+
+    @Benchmark
+    public void encodeJson(Blackhole bh) throws Exception {
+        for (JsonNode message : messages) {
+            bh.consume(SignalingCodec.encodeJson(message));
+        }
+    }
+
+    @Benchmark
+    public void encodeCbor(Blackhole bh) throws Exception {
+        for (JsonNode message : messages) {
+            bh.consume(SignalingCodec.encodeCbor(message));
+        }
+    }
+
+    @Benchmark
+    public void decodeJson(Blackhole bh) throws Exception {
+        for (String payload : jsonPayloads) {
+            bh.consume(SignalingCodec.decodeJson(payload));
+        }
+    }
+
+    @Benchmark
+    public void decodeCbor(Blackhole bh) throws Exception {
+        for (byte[] payload : cborPayloads) {
+            bh.consume(SignalingCodec.decodeCbor(ByteBuffer.wrap(payload)));
+        }
+    }
+}
@@ -0,0 +1,246 @@
+// SignalingHandlerBenchmark.java - JSON / CBOR 시그널링 서버 처리 경로 비교
+
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.webrtc_backend.service.KurentoService;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통화 1회 설정을 /signaling 진입점(SignalingProtocolHandler)부터 처리하는 서버 비용을 측정한다.
+ * 디코딩 → dispatch → 응답 인코딩 → 세션 전송까지 포함하며, Kurento 호출과 네트워크 I/O는 제외한다.
+ * 결과는 메시지 1개당 시간이다 (수신 메시지 + Kurento 이벤트로 보내는 ICE Candidate).
+ * 통화 1회당 전송 바이트(양방향)는 WireBytes 보조 카운터의 bytes ÷ calls 로 구한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SignalingHandlerBenchmark {
+
+    @Param({SignalingCodec.JSON_PROTOCOL, SignalingCodec.CBOR_PROTOCOL})
+    public String protocol;
+
+    private SignalingProtocolHandler protocolHandler;
+    private SignalingHandler signalingHandler;
+    private CountingSession session;
+    private List<WebSocketMessage<?>> inbound;
+    private List<JsonNode> candidates;
+    private long inboundBytes;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        signalingHandler = new SignalingHandler(new StubKurentoService());
+        protocolHandler = new SignalingProtocolHandler(signalingHandler, new BinarySignalingHandler(signalingHandler));
+
+        session = new CountingSession(protocol);
+        protocolHandler.afterConnectionEstablished(session);
+
+        inbound = new ArrayList<>();
+        inboundBytes = 0;
+        for (JsonNode message : CallSetupFixture.clientMessages()) {
+            WebSocketMessage<?> encoded = SignalingCodec.encode(session, message);
+            inbound.add(encoded);
+            inboundBytes += payloadBytes(encoded);
+        }
+        candidates = CallSetupFixture.candidates();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CallSetupFixture.CLIENT_MESSAGES_PER_CALL + CallSetupFixture.ICE_CANDIDATES_PER_CALL)
+    public void callSetup(WireBytes wire) throws Exception {
+        // 클라이언트 → 서버 (응답 전송 포함)
+        for (WebSocketMessage<?> message : inbound) {
+            protocolHandler.handleMessage(session, message);
+        }
+
+        // 서버 → 클라이언트 ICE Candidate (Kurento 이벤트 경로)
+        for (JsonNode candidate : candidates) {
+            signalingHandler.sendIceCandidate(session.getId(), candidate);
+        }
+
+        wire.record(inboundBytes + session.drainSentBytes());
+    }
+
+    /**
+     * 양방향 전송 바이트와 통화 수 (두 값 모두 같은 방식으로 합산되므로 비율이 통화 1회당 바이트)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class WireBytes {
+        public long bytes;
+        public long calls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            calls = 0;
+        }
+
+        void record(long callBytes) {
+            bytes += callBytes;
+            calls++;
+        }
+    }
+
+    private static long payloadBytes(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            return text.getPayload().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return ((BinaryMessage) message).getPayloadLength();
+    }
+
+    /**
+     * Kurento 호출 없이 고정 응답만 반환
+     */
+    private static class StubKurentoService extends KurentoService {
+
+        @Override
+        public void joinRoom(String sessionId, String roomId, WebSocketSession session) {
+        }
+
+        @Override
+        public String startCommunication(String sessionId) {
+            return CallSetupFixture.SDP;
+        }
+
+        @Override
+        public void processAnswer(String sessionId, String sdpAnswer) {
+        }
+
+        @Override
+        public void addIceCandidate(String sessionId, JsonNode candidateData) {
+        }
+
+        @Override
+        public void leaveRoom(String sessionId) {
+        }
+    }
+
+    /**
+     * 전송 바이트만 세는 WebSocket 세션
+     */
+    private static class CountingSession implements WebSocketSession {
+
+        private final String protocol;
+        private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+        private long sentBytes;
+
+        CountingSession(String protocol) {
+            this.protocol = protocol;
+        }
+
+        long drainSentBytes() {
+            long result = sentBytes;
+            sentBytes = 0;
+            return result;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) {
+            sentBytes += payloadBytes(message);
+        }
+
+        @Override
+        public String getId() {
+            return "benchmark";
+        }
+
+        @Override
+        public String getAcceptedProtocol() {
+            return protocol;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public URI getUri() {
+            return null;
+        }
+
+        @Override
+        public HttpHeaders getHandshakeHeaders() {
+            return new HttpHeaders();
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        public Principal getPrincipal() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getLocalAddress() {
+            return null;
+        }
+
+        @Override
+        public InetSocketAddress getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public void setTextMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getTextMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+        }
+
+        @Override
+        public int getBinaryMessageSizeLimit() {
+            return Integer.MAX_VALUE;
+        }
+
+        @Override
+        public List<WebSocketExtension> getExtensions() {
+            return List.of();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public void close(CloseStatus status) {
+        }
+    }
+}
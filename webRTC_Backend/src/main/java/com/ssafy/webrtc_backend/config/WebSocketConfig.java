@@ -1,6 +1,6 @@
 package com.ssafy.webrtc_backend.config;
 
-import com.ssafy.webrtc_backend.util.SignalingHandler;
+import com.ssafy.webrtc_backend.util.SignalingProtocolHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
@@ -12,11 +12,12 @@ import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketConfigurer {
 
-    private final SignalingHandler signalingHandler;
+    // 서브프로토콜에 따라 JSON(SignalingHandler) / CBOR(BinarySignalingHandler)로 위임
+    private final SignalingProtocolHandler signalingProtocolHandler;
 
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
-        registry.addHandler(signalingHandler, "/signaling")
+        registry.addHandler(signalingProtocolHandler, "/signaling")
                 .setAllowedOrigins("*");
     }
 }
\ No newline at end of file
@@ -4,7 +4,10 @@ package com.ssafy.webrtc_backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.ssafy.webrtc_backend.util.SignalingHandler;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
@@ -12,9 +15,12 @@ import org.kurento.client.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -24,13 +30,31 @@ import java.util.concurrent.ConcurrentSkipListSet;
 @Service
 public class KurentoService {
 
+    // 자원 회수 시 WebSocket 종료 사유 (클라이언트는 재참가하지 않음)
+    static final CloseStatus SESSION_EXPIRED = CloseStatus.POLICY_VIOLATION.withReason("sessionExpired");
+
     @Value("${kurento.client.ws-url}")
     private String kurentoWsUrl;
 
+    // 연결되지 않은(NEW/NEGOTIATING) 세션 회수 대기 시간 (밀리초)
+    @Value("${kurento.session.connect-timeout:60000}")
+    private long connectTimeout;
+
+    // 실패/끊김(FAILED/DISCONNECTED) 세션 회수 대기 시간 (밀리초)
+    @Value("${kurento.session.failed-timeout:20000}")
+    private long failedTimeout;
+
+    // 연결 성공 전까지 허용하는 ICE 재시작 요청 횟수
+    @Value("${kurento.session.max-ice-restarts:3}")
+    private int maxIceRestarts;
+
     @Autowired
     @Lazy
     private SignalingHandler signalingHandler;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     private KurentoClient kurentoClient;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -46,8 +70,19 @@ public class KurentoService {
     // 세션별 방 정보
     private final Map<String, String> sessionRooms = new ConcurrentHashMap<>();
 
+    // 세션별 미디어 연결 상태
+    private final Map<String, SessionStatus> sessionStates = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
+        // 상태별 세션 수 메트릭 등록
+        for (MediaSessionState state : MediaSessionState.values()) {
+            Gauge.builder("webrtc.sessions", () -> countSessions(state))
+                    .tag("state", state.name().toLowerCase())
+                    .description("상태별 WebRTC 세션 수")
+                    .register(meterRegistry);
+        }
+
         try {
             log.info("Kurento 클라이언트 초기화 시작: {}", kurentoWsUrl);
             kurentoClient = KurentoClient.create(kurentoWsUrl);
@@ -95,6 +130,13 @@ public class KurentoService {
         try {
             log.info("방 참가 요청: sessionId={}, roomId={}", sessionId, roomId);
 
+            // 0. 재참가(ICE 재시작) 시 기존 방/엔드포인트/상태 정리
+            SessionStatus previousStatus = sessionStates.get(sessionId);
+            if (sessionRooms.containsKey(sessionId)) {
+                log.info("기존 방 정리 후 재참가: sessionId={}", sessionId);
+                leaveRoom(sessionId);
+            }
+
             // 1. 방의 미디어 파이프라인 생성 또는 가져오기
             MediaPipeline pipeline = getOrCreatePipeline(roomId);
 
@@ -111,15 +153,21 @@ public class KurentoService {
                 }
             });
 
-            // 4. 엔드포인트 저장
+            // 4. 연결 상태 이벤트 리스너 등록 (실패/끊김 후 재참가면 ICE 재시작 횟수 이어받음)
+            SessionStatus status = new SessionStatus(System.currentTimeMillis(),
+                    previousStatus == null ? 0 : previousStatus.carriedIceRestarts());
+            registerStateListeners(sessionId, endpoint, status);
+
+            // 5. 엔드포인트 및 상태 저장
             userEndpoints.put(sessionId, endpoint);
+            sessionStates.put(sessionId, status);
 
-            // 5. 방 참가자 목록에 추가
+            // 6. 방 참가자 목록에 추가
             roomParticipants.computeIfAbsent(roomId, k -> new ConcurrentSkipListSet<>())
                     .add(sessionId);
             sessionRooms.put(sessionId, roomId);
 
-            // 6. 기존 참가자들과 연결
+            // 7. 기존 참가자들과 연결
             connectToExistingParticipants(roomId, sessionId, endpoint);
 
             log.info("방 참가 완료: sessionId={}, roomId={}, 총 참가자={}",
@@ -144,6 +192,7 @@ public class KurentoService {
             }
 
             // SDP Offer 생성
+            transition(sessionId, MediaSessionState.NEGOTIATING);
             String sdpOffer = endpoint.generateOffer();
             log.info("SDP Offer 생성 완료: sessionId={}", sessionId);
 
@@ -168,6 +217,7 @@ public class KurentoService {
             }
 
             // SDP Answer 생성
+            transition(sessionId, MediaSessionState.NEGOTIATING);
             String sdpAnswer = endpoint.processOffer(sdpOffer);
 
             // 미디어 플로우 시작
@@ -247,6 +297,7 @@ public class KurentoService {
                 endpoint.release();
                 userEndpoints.remove(sessionId);
             }
+            sessionStates.remove(sessionId);
 
             log.info("통화 종료 완료: sessionId={}", sessionId);
 
@@ -269,11 +320,12 @@ public class KurentoService {
 
             log.info("방 나가기: sessionId={}, roomId={}", sessionId, roomId);
 
-            // 1. 엔드포인트 정리
+            // 1. 엔드포인트 및 상태 정리
             WebRtcEndpoint endpoint = userEndpoints.remove(sessionId);
             if (endpoint != null) {
                 endpoint.release();
             }
+            sessionStates.remove(sessionId);
 
             // 2. 방 참가자 목록에서 제거
             Set<String> participants = roomParticipants.get(roomId);
@@ -298,8 +350,141 @@ public class KurentoService {
         }
     }
 
+    /**
+     * 연결되지 않거나 실패한 상태로 오래 남은 세션의 Kurento 자원 회수
+     */
+    @Scheduled(fixedDelayString = "${kurento.session.check-interval:5000}")
+    public void reclaimStaleSessions() {
+        reclaimStaleSessions(System.currentTimeMillis());
+    }
+
+    void reclaimStaleSessions(long now) {
+        sessionStates.forEach((sessionId, status) -> {
+            if (status.isExpired(now, connectTimeout, failedTimeout)) {
+                reclaim(sessionId, status);
+            }
+        });
+    }
+
     // === 내부 헬퍼 메서드들 ===
 
+    /**
+     * ICE / 미디어 상태 이벤트 리스너 등록
+     */
+    private void registerStateListeners(String sessionId, WebRtcEndpoint endpoint, SessionStatus status) {
+        endpoint.addIceComponentStateChangedListener(event -> {
+            log.debug("ICE 상태 변경: sessionId={}, stream={}, component={}, state={}",
+                    sessionId, event.getStreamId(), event.getComponentId(), event.getState());
+
+            // 컴포넌트 하나의 끊김은 다른 컴포넌트가 연결돼 있으면 무시 (GATHERING, CONNECTING 은 협상 중)
+            MediaSessionState next = status.updateIceComponent(
+                    event.getStreamId() + ":" + event.getComponentId(), event.getState());
+            if (next != null) {
+                transition(sessionId, status, next);
+            }
+        });
+
+        endpoint.addMediaStateChangedListener(event -> {
+            log.debug("미디어 상태 변경: sessionId={}, {} -> {}",
+                    sessionId, event.getOldState(), event.getNewState());
+
+            if (event.getNewState() == MediaState.CONNECTED) {
+                transitionToConnected(sessionId, status);
+            } else {
+                transition(sessionId, status, MediaSessionState.DISCONNECTED);
+            }
+        });
+
+        endpoint.addMediaFlowInStateChangedListener(event -> {
+            log.debug("미디어 수신 상태 변경: sessionId={}, mediaType={}, state={}",
+                    sessionId, event.getMediaType(), event.getState());
+
+            // 수신 중단(NOT_FLOWING)은 음소거일 수 있으므로 ICE/미디어 상태로만 판단
+            if (event.getState() == MediaFlowState.FLOWING) {
+                transitionToConnected(sessionId, status);
+            }
+        });
+    }
+
+    /**
+     * 미디어 이벤트에 의한 연결 처리 (실패한 ICE 컴포넌트가 있으면 ICE 재시작 대기)
+     */
+    private void transitionToConnected(String sessionId, SessionStatus status) {
+        if (!status.hasFailedIceComponent()) {
+            transition(sessionId, status, MediaSessionState.CONNECTED);
+        }
+    }
+
+    /**
+     * 현재 세션 상태 전이 (SDP 협상 시)
+     */
+    private void transition(String sessionId, MediaSessionState next) {
+        SessionStatus status = sessionStates.get(sessionId);
+        if (status != null) {
+            transition(sessionId, status, next);
+        }
+    }
+
+    /**
+     * 세션 상태 전이 (허용되지 않은 전이, 해제된 엔드포인트의 이벤트는 무시)
+     */
+    private void transition(String sessionId, SessionStatus status, MediaSessionState next) {
+        if (sessionStates.get(sessionId) != status) return;
+
+        MediaSessionState previous = status.moveTo(next, System.currentTimeMillis());
+        if (previous == null) return;
+
+        log.info("세션 상태 변경: sessionId={}, {} -> {}", sessionId, previous, next);
+
+        // ICE 실패 시 클라이언트에게 재시작 요청 (끊김은 복구 대기 후 회수)
+        if (next == MediaSessionState.FAILED) {
+            requestIceRestart(sessionId, status);
+        }
+    }
+
+    /**
+     * 클라이언트에게 ICE 재시작 요청 (한도 초과 시 회수 대기)
+     */
+    private void requestIceRestart(String sessionId, SessionStatus status) {
+        if (!status.tryIceRestart(maxIceRestarts)) {
+            log.warn("ICE 재시작 한도 초과, 회수 대기: sessionId={}, max={}", sessionId, maxIceRestarts);
+            return;
+        }
+
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("type", "restartIce");
+        message.put("state", status.getState().name());
+        message.put("attempt", status.getIceRestarts());
+        signalingHandler.sendMessage(sessionId, message);
+    }
+
+    /**
+     * 만료된 세션 회수 후 WebSocket 종료 (재참가로 교체된 세션은 건드리지 않음)
+     */
+    void reclaim(String sessionId, SessionStatus status) {
+        if (!sessionStates.remove(sessionId, status)) return;
+
+        log.warn("세션 자원 회수: sessionId={}, state={}", sessionId, status.getState());
+        leaveRoom(sessionId);
+        signalingHandler.closeSession(sessionId, SESSION_EXPIRED);
+    }
+
+    /**
+     * 세션의 현재 상태 기록
+     */
+    SessionStatus sessionStatus(String sessionId) {
+        return sessionStates.get(sessionId);
+    }
+
+    /**
+     * 특정 상태의 세션 수
+     */
+    private long countSessions(MediaSessionState state) {
+        return sessionStates.values().stream()
+                .filter(status -> status.getState() == state)
+                .count();
+    }
+
     /**
      * 방의 미디어 파이프라인 생성 또는 가져오기
      */
@@ -360,6 +545,12 @@ public class KurentoService {
         status.put("activePipelines", roomPipelines.size());
         status.put("activeRooms", roomParticipants.size());
         status.put("kurentoClientConnected", kurentoClient != null);
+
+        Map<MediaSessionState, Long> sessionStateCounts = new EnumMap<>(MediaSessionState.class);
+        for (MediaSessionState state : MediaSessionState.values()) {
+            sessionStateCounts.put(state, countSessions(state));
+        }
+        status.put("sessionStates", sessionStateCounts);
         return status;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+// MediaSessionState.java - 세션별 미디어 연결 상태
+
+package com.ssafy.webrtc_backend.service;
+
+/**
+ * WebRTC 엔드포인트의 연결 상태.
+ * Kurento의 ICE / 미디어 이벤트로 전이되며, 허용되지 않은 전이는 무시한다.
+ */
+public enum MediaSessionState {
+
+    // 방 참가 완료, 엔드포인트 생성됨
+    NEW,
+
+    // SDP 협상 진행 중
+    NEGOTIATING,
+
+    // ICE 연결 및 미디어 수신 중
+    CONNECTED,
+
+    // 연결 후 끊김 (복구 대기)
+    DISCONNECTED,
+
+    // ICE 연결 실패
+    FAILED;
+
+    /**
+     * 현재 상태에서 다음 상태로 전이 가능한지 여부
+     */
+    public boolean canMoveTo(MediaSessionState next) {
+        return switch (this) {
+            case NEW -> next == NEGOTIATING || next == CONNECTED || next == FAILED;
+            case NEGOTIATING -> next == CONNECTED || next == FAILED;
+            case CONNECTED -> next == DISCONNECTED || next == FAILED;
+            case DISCONNECTED -> next == CONNECTED || next == NEGOTIATING || next == FAILED;
+            case FAILED -> next == CONNECTED || next == NEGOTIATING;
+        };
+    }
+}
@@ -0,0 +1,112 @@
+// SessionStatus.java - 세션별 상태, 마지막 전이 시각, ICE 재시작 횟수
+
+package com.ssafy.webrtc_backend.service;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import org.kurento.client.IceComponentState;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트 하나에 대한 상태 기록.
+ * 재참가 시 새 인스턴스로 교체되며, 이전 인스턴스로 들어온 이벤트는 무시된다.
+ */
+@Getter
+class SessionStatus {
+
+    private volatile MediaSessionState state = MediaSessionState.NEW;
+    private volatile long changedAt;
+
+    // 연결 성공 전까지 누적된 ICE 재시작 요청 횟수 (재참가 시 이어받음)
+    private volatile int iceRestarts;
+
+    // ICE 컴포넌트별 상태 (streamId:componentId)
+    @Getter(AccessLevel.NONE)
+    private final Map<String, IceComponentState> iceComponents = new HashMap<>();
+
+    SessionStatus(long now, int iceRestarts) {
+        this.changedAt = now;
+        this.iceRestarts = iceRestarts;
+    }
+
+    /**
+     * 상태 전이 후 이전 상태 반환, 허용되지 않으면 null
+     */
+    synchronized MediaSessionState moveTo(MediaSessionState next, long now) {
+        if (!state.canMoveTo(next)) {
+            return null;
+        }
+        MediaSessionState previous = state;
+        state = next;
+        changedAt = now;
+
+        // 연결에 성공하면 재시작 횟수 초기화
+        if (next == MediaSessionState.CONNECTED) {
+            iceRestarts = 0;
+        }
+        return previous;
+    }
+
+    /**
+     * ICE 컴포넌트 상태 기록 후 전체 컴포넌트 기준으로 옮겨갈 상태 반환, 판단할 수 없으면 null.
+     * 하나라도 FAILED 면 실패, 모두 CONNECTED/READY 여야 연결, 연결된 컴포넌트가 하나도 없을 때만 끊김
+     */
+    synchronized MediaSessionState updateIceComponent(String component, IceComponentState componentState) {
+        iceComponents.put(component, componentState);
+
+        if (iceComponents.containsValue(IceComponentState.FAILED)) {
+            return MediaSessionState.FAILED;
+        }
+        long connected = iceComponents.values().stream().filter(SessionStatus::isIceConnected).count();
+        if (connected == iceComponents.size()) {
+            return MediaSessionState.CONNECTED;
+        }
+        if (connected == 0 && iceComponents.containsValue(IceComponentState.DISCONNECTED)) {
+            return MediaSessionState.DISCONNECTED;
+        }
+        return null;
+    }
+
+    /**
+     * 실패한 ICE 컴포넌트가 있는지 여부 (미디어 이벤트로 연결 처리하지 않음)
+     */
+    synchronized boolean hasFailedIceComponent() {
+        return iceComponents.containsValue(IceComponentState.FAILED);
+    }
+
+    /**
+     * 재참가 시 이어받을 ICE 재시작 횟수 (실패/끊김 복구 중일 때만, 방 이동은 초기화)
+     */
+    synchronized int carriedIceRestarts() {
+        return state == MediaSessionState.FAILED || state == MediaSessionState.DISCONNECTED ? iceRestarts : 0;
+    }
+
+    /**
+     * ICE 재시작 요청 가능 여부 확인 후 횟수 증가
+     */
+    synchronized boolean tryIceRestart(int maxIceRestarts) {
+        if (iceRestarts >= maxIceRestarts) {
+            return false;
+        }
+        iceRestarts++;
+        return true;
+    }
+
+    /**
+     * 현재 상태로 머문 시간이 제한을 넘었는지 여부
+     */
+    synchronized boolean isExpired(long now, long connectTimeout, long failedTimeout) {
+        long elapsed = now - changedAt;
+        return switch (state) {
+            case NEW, NEGOTIATING -> elapsed > connectTimeout;
+            case DISCONNECTED, FAILED -> elapsed > failedTimeout;
+            case CONNECTED -> false;
+        };
+    }
+
+    private static boolean isIceConnected(IceComponentState componentState) {
+        return componentState == IceComponentState.CONNECTED || componentState == IceComponentState.READY;
+    }
+}
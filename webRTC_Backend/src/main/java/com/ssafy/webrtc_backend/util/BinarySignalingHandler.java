@@ -0,0 +1,42 @@
+// BinarySignalingHandler.java - CBOR 시그널링 프로토콜 처리
+
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BinarySignalingHandler extends BinaryWebSocketHandler {
+
+    // 세션 관리와 메시지 처리는 기존 핸들러와 공유
+    private final SignalingHandler signalingHandler;
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        signalingHandler.afterConnectionEstablished(session);
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+        try {
+            JsonNode data = SignalingCodec.decodeCbor(message.getPayload());
+            signalingHandler.dispatch(session, data);
+        } catch (Exception e) {
+            log.error("바이너리 메시지 처리 에러: sessionId={}", session.getId(), e);
+            signalingHandler.sendErrorMessage(session, "메시지 처리 실패: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        signalingHandler.afterConnectionClosed(session, status);
+    }
+}
@@ -0,0 +1,72 @@
+// SignalingCodec.java - 시그널링 메시지 인코딩 (JSON / CBOR)
+
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * 연결별로 협상된 서브프로토콜에 따라 시그널링 메시지를 인코딩/디코딩한다.
+ * 서브프로토콜을 지정하지 않은 클라이언트는 기존 JSON 프로토콜을 사용한다.
+ */
+public final class SignalingCodec {
+
+    // 기존 텍스트(JSON) 프로토콜
+    public static final String JSON_PROTOCOL = "signaling.json";
+
+    // 바이너리(CBOR) 프로토콜
+    public static final String CBOR_PROTOCOL = "signaling.cbor";
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final ObjectMapper CBOR_MAPPER = new CBORMapper();
+
+    private SignalingCodec() {
+    }
+
+    /**
+     * 세션이 CBOR 프로토콜로 협상되었는지 여부
+     */
+    public static boolean isBinary(WebSocketSession session) {
+        return CBOR_PROTOCOL.equals(session.getAcceptedProtocol());
+    }
+
+    /**
+     * 세션 프로토콜에 맞는 WebSocket 메시지 생성
+     */
+    public static WebSocketMessage<?> encode(WebSocketSession session, JsonNode message) throws IOException {
+        if (isBinary(session)) {
+            return new BinaryMessage(encodeCbor(message));
+        }
+        return new TextMessage(encodeJson(message));
+    }
+
+    public static String encodeJson(JsonNode message) throws IOException {
+        return JSON_MAPPER.writeValueAsString(message);
+    }
+
+    public static JsonNode decodeJson(String payload) throws IOException {
+        return JSON_MAPPER.readTree(payload);
+    }
+
+    public static byte[] encodeCbor(JsonNode message) throws IOException {
+        return CBOR_MAPPER.writeValueAsBytes(message);
+    }
+
+    public static JsonNode decodeCbor(ByteBuffer payload) throws IOException {
+        if (payload.hasArray()) {
+            return CBOR_MAPPER.readTree(payload.array(),
+                    payload.arrayOffset() + payload.position(), payload.remaining());
+        }
+        byte[] bytes = new byte[payload.remaining()];
+        payload.duplicate().get(bytes);
+        return CBOR_MAPPER.readTree(bytes);
+    }
+}
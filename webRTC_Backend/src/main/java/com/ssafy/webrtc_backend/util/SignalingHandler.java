@@ -12,8 +12,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -22,53 +24,66 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class SignalingHandler extends TextWebSocketHandler {
 
+    // 동시 전송 시 메시지 버퍼링 한도 (핸들러 / Kurento 이벤트 / 스케줄러 스레드)
+    private static final int SEND_TIME_LIMIT_MS = 10_000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+
     private final KurentoService kurentoService;
     private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        sessions.put(session.getId(), session);
+        // 여러 스레드에서 전송하므로 동시 전송을 직렬화하는 데코레이터로 감싸서 보관
+        sessions.put(session.getId(),
+                new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_SIZE_LIMIT));
         log.info("WebSocket 연결 생성: sessionId={}", session.getId());
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         try {
-            JsonNode data = objectMapper.readTree(message.getPayload());
-            String type = data.get("type").asText();
-            String sessionId = session.getId();
-
-            log.info("메시지 수신: type={}, sessionId={}", type, sessionId);
-
-            switch (type) {
-                case "join":
-                    handleJoin(session, data);
-                    break;
-                case "call":
-                    handleCall(session);
-                    break;
-                case "processOffer":
-                    handleProcessOffer(session, data);
-                    break;
-                case "processAnswer":
-                    handleProcessAnswer(session, data);
-                    break;
-                case "onIceCandidate":
-                    handleIceCandidate(session, data);
-                    break;
-                case "stop":
-                    handleStop(session);
-                    break;
-                default:
-                    log.warn("알 수 없는 메시지 타입: {}", type);
-            }
+            JsonNode data = SignalingCodec.decodeJson(message.getPayload());
+            dispatch(session, data);
         } catch (Exception e) {
             log.error("메시지 처리 에러: sessionId={}", session.getId(), e);
             sendErrorMessage(session, "메시지 처리 실패: " + e.getMessage());
         }
     }
 
+    /**
+     * 디코딩된 시그널링 메시지 처리 (JSON/CBOR 프로토콜 공통)
+     */
+    void dispatch(WebSocketSession session, JsonNode data) throws Exception {
+        String type = data.get("type").asText();
+        String sessionId = session.getId();
+
+        log.info("메시지 수신: type={}, sessionId={}", type, sessionId);
+
+        switch (type) {
+            case "join":
+                handleJoin(session, data);
+                break;
+            case "call":
+                handleCall(session);
+                break;
+            case "processOffer":
+                handleProcessOffer(session, data);
+                break;
+            case "processAnswer":
+                handleProcessAnswer(session, data);
+                break;
+            case "onIceCandidate":
+                handleIceCandidate(session, data);
+                break;
+            case "stop":
+                handleStop(session);
+                break;
+            default:
+                log.warn("알 수 없는 메시지 타입: {}", type);
+        }
+    }
+
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         String sessionId = session.getId();
@@ -95,7 +110,7 @@ public class SignalingHandler extends TextWebSocketHandler {
             ObjectNode response = objectMapper.createObjectNode();
             response.put("type", "joined");
             response.put("roomId", roomId);
-            session.sendMessage(new TextMessage(response.toString()));
+            send(session, response);
 
             log.info("방 참가 완료: sessionId={}, roomId={}", sessionId, roomId);
 
@@ -118,7 +133,7 @@ public class SignalingHandler extends TextWebSocketHandler {
                 ObjectNode response = objectMapper.createObjectNode();
                 response.put("type", "startCommunication");
                 response.put("sdpOffer", sdpOffer);
-                session.sendMessage(new TextMessage(response.toString()));
+                send(session, response);
 
                 log.info("SDP Offer 전송 완료: sessionId={}", sessionId);
             }
@@ -144,7 +159,7 @@ public class SignalingHandler extends TextWebSocketHandler {
                 ObjectNode response = objectMapper.createObjectNode();
                 response.put("type", "processAnswer");
                 response.put("sdpAnswer", sdpAnswer);
-                session.sendMessage(new TextMessage(response.toString()));
+                send(session, response);
 
                 log.info("SDP Answer 전송 완료: sessionId={}", sessionId);
             }
@@ -200,7 +215,7 @@ public class SignalingHandler extends TextWebSocketHandler {
             // 종료 확인 응답
             ObjectNode response = objectMapper.createObjectNode();
             response.put("type", "stopCommunication");
-            session.sendMessage(new TextMessage(response.toString()));
+            send(session, response);
 
             log.info("통화 종료 완료: sessionId={}", sessionId);
 
@@ -223,7 +238,7 @@ public class SignalingHandler extends TextWebSocketHandler {
                 message.put("type", "iceCandidate");
                 message.set("candidate", candidate);
 
-                session.sendMessage(new TextMessage(message.toString()));
+                session.sendMessage(SignalingCodec.encode(session, message));
                 log.debug("ICE Candidate 전송 완료: sessionId={}", sessionId);
 
             } catch (Exception e) {
@@ -237,13 +252,13 @@ public class SignalingHandler extends TextWebSocketHandler {
     /**
      * 에러 메시지 전송
      */
-    private void sendErrorMessage(WebSocketSession session, String error) {
+    void sendErrorMessage(WebSocketSession session, String error) {
         try {
             ObjectNode errorResponse = objectMapper.createObjectNode();
             errorResponse.put("type", "error");
             errorResponse.put("message", error);
 
-            session.sendMessage(new TextMessage(errorResponse.toString()));
+            send(session, errorResponse);
             log.info("에러 메시지 전송: {}", error);
 
         } catch (Exception e) {
@@ -258,7 +273,7 @@ public class SignalingHandler extends TextWebSocketHandler {
         WebSocketSession session = sessions.get(sessionId);
         if (session != null && session.isOpen()) {
             try {
-                session.sendMessage(new TextMessage(message.toString()));
+                session.sendMessage(SignalingCodec.encode(session, message));
                 log.debug("메시지 전송 완료: sessionId={}, type={}",
                         sessionId, message.get("type").asText());
 
@@ -270,6 +285,30 @@ public class SignalingHandler extends TextWebSocketHandler {
         }
     }
 
+    /**
+     * 세션 연결 종료 (서버가 자원을 회수한 경우)
+     */
+    public void closeSession(String sessionId, CloseStatus status) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session != null && session.isOpen()) {
+            try {
+                session.close(status);
+                log.info("세션 연결 종료: sessionId={}, status={}", sessionId, status);
+
+            } catch (Exception e) {
+                log.error("세션 연결 종료 실패: sessionId={}", sessionId, e);
+            }
+        }
+    }
+
+    /**
+     * 핸들러 스레드에서의 응답 전송 (등록된 데코레이터 세션 사용)
+     */
+    private void send(WebSocketSession session, JsonNode message) throws IOException {
+        WebSocketSession target = sessions.getOrDefault(session.getId(), session);
+        target.sendMessage(SignalingCodec.encode(target, message));
+    }
+
     /**
      * 연결된 모든 세션 정보 반환
      */
@@ -0,0 +1,59 @@
+// SignalingProtocolHandler.java - 서브프로토콜별 핸들러 선택
+
+package com.ssafy.webrtc_backend.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+
+/**
+ * /signaling 엔드포인트 진입점.
+ * 핸드셰이크에서 협상된 서브프로토콜에 따라 JSON 또는 CBOR 핸들러로 위임한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SignalingProtocolHandler implements WebSocketHandler, SubProtocolCapable {
+
+    private final SignalingHandler signalingHandler;
+    private final BinarySignalingHandler binarySignalingHandler;
+
+    @Override
+    public List<String> getSubProtocols() {
+        return List.of(SignalingCodec.CBOR_PROTOCOL, SignalingCodec.JSON_PROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        delegate(session).afterConnectionEstablished(session);
+    }
+
+    @Override
+    public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+        delegate(session).handleMessage(session, message);
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        delegate(session).handleTransportError(session, exception);
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+        delegate(session).afterConnectionClosed(session, closeStatus);
+    }
+
+    @Override
+    public boolean supportsPartialMessages() {
+        return false;
+    }
+
+    private WebSocketHandler delegate(WebSocketSession session) {
+        return SignalingCodec.isBinary(session) ? binarySignalingHandler : signalingHandler;
+    }
+}
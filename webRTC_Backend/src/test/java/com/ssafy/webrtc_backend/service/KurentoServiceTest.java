@@ -0,0 +1,194 @@
+package com.ssafy.webrtc_backend.service;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.webrtc_backend.util.SignalingHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kurento.client.EventListener;
+import org.kurento.client.IceComponentState;
+import org.kurento.client.IceComponentStateChangedEvent;
+import org.kurento.client.KurentoClient;
+import org.kurento.client.MediaPipeline;
+import org.kurento.client.WebRtcEndpoint;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatcher;
+import org.mockito.MockedConstruction;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ssafy.webrtc_backend.service.MediaSessionState.CONNECTED;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.FAILED;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.NEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 세션 상태 기록, ICE 재시작 요청, 자원 회수 (Kurento 엔드포인트와 시그널링은 모킹)
+ */
+class KurentoServiceTest {
+
+    private static final long CONNECT_TIMEOUT = 60_000;
+    private static final long FAILED_TIMEOUT = 20_000;
+    private static final int MAX_ICE_RESTARTS = 2;
+    private static final String SESSION_ID = "session-1";
+
+    private final List<WebRtcEndpoint> endpoints = new ArrayList<>();
+
+    private SignalingHandler signalingHandler;
+    private KurentoService kurentoService;
+    private MockedConstruction<WebRtcEndpoint.Builder> builders;
+
+    @BeforeEach
+    void setUp() {
+        signalingHandler = mock(SignalingHandler.class);
+        KurentoClient kurentoClient = mock(KurentoClient.class);
+        given(kurentoClient.createMediaPipeline()).willAnswer(invocation -> mock(MediaPipeline.class));
+
+        kurentoService = new KurentoService();
+        ReflectionTestUtils.setField(kurentoService, "signalingHandler", signalingHandler);
+        ReflectionTestUtils.setField(kurentoService, "kurentoClient", kurentoClient);
+        ReflectionTestUtils.setField(kurentoService, "connectTimeout", CONNECT_TIMEOUT);
+        ReflectionTestUtils.setField(kurentoService, "failedTimeout", FAILED_TIMEOUT);
+        ReflectionTestUtils.setField(kurentoService, "maxIceRestarts", MAX_ICE_RESTARTS);
+
+        // 엔드포인트 생성 시마다 새 모의 엔드포인트 반환
+        builders = mockConstruction(WebRtcEndpoint.Builder.class, (builder, context) -> {
+            WebRtcEndpoint endpoint = mock(WebRtcEndpoint.class);
+            endpoints.add(endpoint);
+            given(builder.build()).willReturn(endpoint);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        builders.close();
+    }
+
+    @Test
+    void eventsFromReleasedEndpointAreIgnored() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        EventListener<IceComponentStateChangedEvent> oldListener = iceListener(endpoints.get(0));
+
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        oldListener.onEvent(iceEvent(1, IceComponentState.FAILED));
+
+        verify(endpoints.get(0)).release();
+        assertThat(kurentoService.sessionStatus(SESSION_ID).getState()).isEqualTo(NEW);
+        verify(signalingHandler, never()).sendMessage(anyString(), any());
+    }
+
+    @Test
+    void reclaimSkipsSessionReplacedByRejoin() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        SessionStatus oldStatus = kurentoService.sessionStatus(SESSION_ID);
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        SessionStatus newStatus = kurentoService.sessionStatus(SESSION_ID);
+
+        kurentoService.reclaim(SESSION_ID, oldStatus);
+
+        assertThat(kurentoService.sessionStatus(SESSION_ID)).isSameAs(newStatus);
+        verify(endpoints.get(1), never()).release();
+        verify(signalingHandler, never()).closeSession(anyString(), any());
+    }
+
+    @Test
+    void restartIceIsRequestedOncePerFailure() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        EventListener<IceComponentStateChangedEvent> listener = iceListener(endpoints.get(0));
+
+        listener.onEvent(iceEvent(1, IceComponentState.FAILED));
+        listener.onEvent(iceEvent(1, IceComponentState.FAILED));
+        listener.onEvent(iceEvent(2, IceComponentState.FAILED));
+
+        verify(signalingHandler, times(1)).sendMessage(eq(SESSION_ID), argThat(restartIce(1)));
+        assertThat(kurentoService.sessionStatus(SESSION_ID).getState()).isEqualTo(FAILED);
+    }
+
+    @Test
+    void restartIceStopsAtLimitAcrossRejoins() {
+        for (int attempt = 1; attempt <= MAX_ICE_RESTARTS + 1; attempt++) {
+            kurentoService.joinRoom(SESSION_ID, "room-1", null);
+            iceListener(endpoints.get(attempt - 1)).onEvent(iceEvent(1, IceComponentState.FAILED));
+        }
+
+        verify(signalingHandler).sendMessage(eq(SESSION_ID), argThat(restartIce(1)));
+        verify(signalingHandler).sendMessage(eq(SESSION_ID), argThat(restartIce(2)));
+        verify(signalingHandler, times(MAX_ICE_RESTARTS)).sendMessage(anyString(), any());
+    }
+
+    @Test
+    void rejoinAfterFailureCarriesRestartCount() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        iceListener(endpoints.get(0)).onEvent(iceEvent(1, IceComponentState.FAILED));
+
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+
+        assertThat(kurentoService.sessionStatus(SESSION_ID).getIceRestarts()).isEqualTo(1);
+    }
+
+    @Test
+    void switchingRoomsResetsRestartCount() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        iceListener(endpoints.get(0)).onEvent(iceEvent(1, IceComponentState.FAILED));
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        kurentoService.startCommunication(SESSION_ID);
+
+        // 협상 중 다른 방으로 이동은 복구가 아님
+        kurentoService.joinRoom(SESSION_ID, "room-2", null);
+
+        assertThat(kurentoService.sessionStatus(SESSION_ID).getIceRestarts()).isZero();
+    }
+
+    @Test
+    void oneDisconnectedComponentDoesNotStartReclaim() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+        EventListener<IceComponentStateChangedEvent> listener = iceListener(endpoints.get(0));
+        listener.onEvent(iceEvent(1, IceComponentState.CONNECTED));
+        listener.onEvent(iceEvent(2, IceComponentState.READY));
+
+        listener.onEvent(iceEvent(2, IceComponentState.DISCONNECTED));
+        kurentoService.reclaimStaleSessions(System.currentTimeMillis() + CONNECT_TIMEOUT + FAILED_TIMEOUT);
+
+        assertThat(kurentoService.sessionStatus(SESSION_ID).getState()).isEqualTo(CONNECTED);
+        verify(signalingHandler, never()).closeSession(anyString(), any());
+    }
+
+    @Test
+    void expiredSessionIsReclaimedAndClosed() {
+        kurentoService.joinRoom(SESSION_ID, "room-1", null);
+
+        kurentoService.reclaimStaleSessions(System.currentTimeMillis() + CONNECT_TIMEOUT + 1);
+
+        assertThat(kurentoService.sessionStatus(SESSION_ID)).isNull();
+        verify(endpoints.get(0)).release();
+        verify(signalingHandler).closeSession(SESSION_ID, KurentoService.SESSION_EXPIRED);
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventListener<IceComponentStateChangedEvent> iceListener(WebRtcEndpoint endpoint) {
+        ArgumentCaptor<EventListener<IceComponentStateChangedEvent>> captor = ArgumentCaptor.forClass(EventListener.class);
+        verify(endpoint).addIceComponentStateChangedListener(captor.capture());
+        return captor.getValue();
+    }
+
+    private static IceComponentStateChangedEvent iceEvent(int componentId, IceComponentState state) {
+        return new IceComponentStateChangedEvent(null, null, null, null, null, 0, componentId, state);
+    }
+
+    private static ArgumentMatcher<ObjectNode> restartIce(int attempt) {
+        return message -> "restartIce".equals(message.get("type").asText())
+                && message.get("attempt").asInt() == attempt;
+    }
+}
@@ -0,0 +1,140 @@
+package com.ssafy.webrtc_backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.kurento.client.IceComponentState;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static com.ssafy.webrtc_backend.service.MediaSessionState.CONNECTED;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.DISCONNECTED;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.FAILED;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.NEGOTIATING;
+import static com.ssafy.webrtc_backend.service.MediaSessionState.NEW;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MediaSessionStateTest {
+
+    private static final long CONNECT_TIMEOUT = 60_000;
+    private static final long FAILED_TIMEOUT = 20_000;
+
+    @Test
+    void allowedTransitions() {
+        assertThat(NEW.canMoveTo(NEGOTIATING)).isTrue();
+        assertThat(NEW.canMoveTo(CONNECTED)).isTrue();
+        assertThat(NEW.canMoveTo(FAILED)).isTrue();
+        assertThat(NEGOTIATING.canMoveTo(CONNECTED)).isTrue();
+        assertThat(NEGOTIATING.canMoveTo(FAILED)).isTrue();
+        assertThat(CONNECTED.canMoveTo(DISCONNECTED)).isTrue();
+        assertThat(CONNECTED.canMoveTo(FAILED)).isTrue();
+        assertThat(DISCONNECTED.canMoveTo(CONNECTED)).isTrue();
+        assertThat(DISCONNECTED.canMoveTo(NEGOTIATING)).isTrue();
+        assertThat(DISCONNECTED.canMoveTo(FAILED)).isTrue();
+        assertThat(FAILED.canMoveTo(CONNECTED)).isTrue();
+        assertThat(FAILED.canMoveTo(NEGOTIATING)).isTrue();
+    }
+
+    @Test
+    void rejectedTransitions() {
+        // 연결 전에는 끊김이 없음 (초기 ICE DISCONNECTED 이벤트 무시)
+        assertThat(NEW.canMoveTo(DISCONNECTED)).isFalse();
+        assertThat(NEGOTIATING.canMoveTo(DISCONNECTED)).isFalse();
+        // 연결 중 재협상은 상태를 되돌리지 않음
+        assertThat(CONNECTED.canMoveTo(NEGOTIATING)).isFalse();
+        assertThat(FAILED.canMoveTo(DISCONNECTED)).isFalse();
+        // NEW 로 돌아가는 전이는 없음 (재참가는 새 상태로 교체)
+        for (MediaSessionState state : MediaSessionState.values()) {
+            assertThat(state.canMoveTo(NEW)).isFalse();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(MediaSessionState.class)
+    void noSelfTransitions(MediaSessionState state) {
+        assertThat(state.canMoveTo(state)).isFalse();
+    }
+
+    @Test
+    void newAndNegotiatingExpireAfterConnectTimeout() {
+        SessionStatus fresh = new SessionStatus(0, 0);
+        assertThat(fresh.isExpired(CONNECT_TIMEOUT, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isFalse();
+        assertThat(fresh.isExpired(CONNECT_TIMEOUT + 1, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isTrue();
+
+        SessionStatus negotiating = new SessionStatus(0, 0);
+        negotiating.moveTo(NEGOTIATING, 1_000);
+        assertThat(negotiating.isExpired(1_000 + FAILED_TIMEOUT + 1, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isFalse();
+        assertThat(negotiating.isExpired(1_000 + CONNECT_TIMEOUT + 1, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isTrue();
+    }
+
+    @Test
+    void failedAndDisconnectedExpireAfterFailedTimeout() {
+        SessionStatus failed = new SessionStatus(0, 0);
+        failed.moveTo(FAILED, 5_000);
+        assertThat(failed.isExpired(5_000 + FAILED_TIMEOUT, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isFalse();
+        assertThat(failed.isExpired(5_000 + FAILED_TIMEOUT + 1, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isTrue();
+
+        SessionStatus disconnected = new SessionStatus(0, 0);
+        disconnected.moveTo(CONNECTED, 1_000);
+        disconnected.moveTo(DISCONNECTED, 2_000);
+        assertThat(disconnected.isExpired(2_000 + FAILED_TIMEOUT, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isFalse();
+        assertThat(disconnected.isExpired(2_000 + FAILED_TIMEOUT + 1, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isTrue();
+    }
+
+    @Test
+    void connectedNeverExpires() {
+        SessionStatus connected = new SessionStatus(0, 0);
+        connected.moveTo(CONNECTED, 0);
+        assertThat(connected.isExpired(Long.MAX_VALUE, CONNECT_TIMEOUT, FAILED_TIMEOUT)).isFalse();
+    }
+
+    @Test
+    void rejectedTransitionKeepsStateAndTimestamp() {
+        SessionStatus status = new SessionStatus(0, 0);
+
+        assertThat(status.moveTo(DISCONNECTED, 1_000)).isNull();
+        assertThat(status.getState()).isEqualTo(NEW);
+        assertThat(status.getChangedAt()).isZero();
+    }
+
+    @Test
+    void iceRestartsAreLimitedUntilConnected() {
+        SessionStatus status = new SessionStatus(0, 2);
+        status.moveTo(FAILED, 0);
+
+        assertThat(status.tryIceRestart(3)).isTrue();
+        assertThat(status.tryIceRestart(3)).isFalse();
+
+        status.moveTo(CONNECTED, 1_000);
+        assertThat(status.getIceRestarts()).isZero();
+        assertThat(status.tryIceRestart(3)).isTrue();
+    }
+
+    @Test
+    void iceStateIsAggregatedOverComponents() {
+        SessionStatus status = new SessionStatus(0, 0);
+
+        // 모든 컴포넌트가 연결돼야 연결
+        assertThat(status.updateIceComponent("0:1", IceComponentState.CONNECTED)).isEqualTo(CONNECTED);
+        assertThat(status.updateIceComponent("0:2", IceComponentState.CONNECTING)).isNull();
+        assertThat(status.updateIceComponent("0:2", IceComponentState.READY)).isEqualTo(CONNECTED);
+
+        // 한 컴포넌트의 끊김은 상태를 바꾸지 않음
+        assertThat(status.updateIceComponent("0:2", IceComponentState.DISCONNECTED)).isNull();
+        assertThat(status.updateIceComponent("0:1", IceComponentState.DISCONNECTED)).isEqualTo(DISCONNECTED);
+
+        // 하나라도 실패하면 실패
+        assertThat(status.updateIceComponent("0:1", IceComponentState.CONNECTED)).isNull();
+        assertThat(status.updateIceComponent("0:2", IceComponentState.FAILED)).isEqualTo(FAILED);
+        assertThat(status.hasFailedIceComponent()).isTrue();
+    }
+
+    @Test
+    void iceRestartsAreCarriedOnlyWhileRecovering() {
+        SessionStatus failed = new SessionStatus(0, 1);
+        failed.moveTo(FAILED, 0);
+        assertThat(failed.carriedIceRestarts()).isEqualTo(1);
+
+        SessionStatus negotiating = new SessionStatus(0, 1);
+        negotiating.moveTo(NEGOTIATING, 0);
+        assertThat(negotiating.carriedIceRestarts()).isZero();
+    }
+}
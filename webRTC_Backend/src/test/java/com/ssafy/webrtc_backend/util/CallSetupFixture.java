@@ -0,0 +1,123 @@
+// CallSetupFixture.java - 벤치마크 / 부하 테스트용 통화 설정 메시지
+
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 통화 1회 설정(join → call → offer/answer → ICE candidate)에 오가는 메시지
+ */
+final class CallSetupFixture {
+
+    static final int ICE_CANDIDATES_PER_CALL = 8;
+
+    // 클라이언트 → 서버: join, call, processAnswer + onIceCandidate
+    static final int CLIENT_MESSAGES_PER_CALL = 3 + ICE_CANDIDATES_PER_CALL;
+
+    // 서버 → 클라이언트: joined, startCommunication + iceCandidate
+    static final int SERVER_MESSAGES_PER_CALL = 2 + ICE_CANDIDATES_PER_CALL;
+
+    static final String SDP = String.join("\r\n",
+            "v=0",
+            "o=- 3906735290 3906735290 IN IP4 0.0.0.0",
+            "s=Kurento Media Server",
+            "c=IN IP4 0.0.0.0",
+            "t=0 0",
+            "a=extmap-allow-mixed:",
+            "a=msid-semantic: WMS EkvFJlJLJTmMZRhZZnl0DdwyHzSkfjWBMgg8",
+            "a=group:BUNDLE 0 1",
+            "m=audio 9 UDP/TLS/RTP/SAVPF 111 0",
+            "a=setup:actpass",
+            "a=extmap:3 http://www.webrtc.org/experiments/rtp-hdrext/abs-send-time",
+            "a=rtpmap:111 opus/48000/2",
+            "a=rtcp-fb:111 transport-cc",
+            "a=fmtp:111 minptime=10;useinbandfec=1",
+            "a=rtpmap:0 PCMU/8000",
+            "a=sendrecv",
+            "a=mid:0",
+            "a=rtcp:9 IN IP4 0.0.0.0",
+            "a=rtcp-mux",
+            "a=ssrc:3212513542 cname:user2854930329@host-5f7a4b1c",
+            "a=ice-ufrag:hBNn",
+            "a=ice-pwd:lRf3Yc1ib5pFKkjBvRH1KX",
+            "a=fingerprint:sha-256 9B:61:D8:B0:55:4C:27:9E:52:7A:5F:3E:29:E2:DE:4F:E6:C1:36:57:AC:5E:D5:6C:0D:7A:D5:0A:9E:E0:2F:2C",
+            "m=video 9 UDP/TLS/RTP/SAVPF 96 97 98",
+            "a=setup:actpass",
+            "a=extmap:3 http://www.webrtc.org/experiments/rtp-hdrext/abs-send-time",
+            "a=rtpmap:96 VP8/90000",
+            "a=rtcp-fb:96 goog-remb",
+            "a=rtcp-fb:96 ccm fir",
+            "a=rtcp-fb:96 nack",
+            "a=rtcp-fb:96 nack pli",
+            "a=rtpmap:97 rtx/90000",
+            "a=fmtp:97 apt=96",
+            "a=rtpmap:98 H264/90000",
+            "a=fmtp:98 level-asymmetry-allowed=1;packetization-mode=1;profile-level-id=42e01f",
+            "a=sendrecv",
+            "a=mid:1",
+            "a=rtcp:9 IN IP4 0.0.0.0",
+            "a=rtcp-mux",
+            "a=ssrc:1908221574 cname:user2854930329@host-5f7a4b1c",
+            "a=ice-ufrag:hBNn",
+            "a=ice-pwd:lRf3Yc1ib5pFKkjBvRH1KX",
+            "a=fingerprint:sha-256 9B:61:D8:B0:55:4C:27:9E:52:7A:5F:3E:29:E2:DE:4F:E6:C1:36:57:AC:5E:D5:6C:0D:7A:D5:0A:9E:E0:2F:2C",
+            "");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private CallSetupFixture() {
+    }
+
+    /**
+     * 클라이언트 → 서버 메시지
+     */
+    static List<JsonNode> clientMessages() {
+        List<JsonNode> result = new ArrayList<>();
+        result.add(OBJECT_MAPPER.createObjectNode().put("type", "join").put("roomId", "room-1234"));
+        result.add(OBJECT_MAPPER.createObjectNode().put("type", "call"));
+        result.add(OBJECT_MAPPER.createObjectNode().put("type", "processAnswer").put("sdpAnswer", SDP));
+
+        for (JsonNode candidate : candidates()) {
+            ObjectNode added = OBJECT_MAPPER.createObjectNode().put("type", "onIceCandidate");
+            added.set("candidate", candidate);
+            result.add(added);
+        }
+        return result;
+    }
+
+    /**
+     * 서버 → 클라이언트 메시지
+     */
+    static List<JsonNode> serverMessages() {
+        List<JsonNode> result = new ArrayList<>();
+        result.add(OBJECT_MAPPER.createObjectNode().put("type", "joined").put("roomId", "room-1234"));
+        result.add(OBJECT_MAPPER.createObjectNode().put("type", "startCommunication").put("sdpOffer", SDP));
+
+        for (JsonNode candidate : candidates()) {
+            ObjectNode found = OBJECT_MAPPER.createObjectNode().put("type", "iceCandidate");
+            found.set("candidate", candidate);
+            result.add(found);
+        }
+        return result;
+    }
+
+    /**
+     * 통화 1회에 교환되는 ICE Candidate
+     */
+    static List<JsonNode> candidates() {
+        List<JsonNode> result = new ArrayList<>();
+        for (int i = 0; i < ICE_CANDIDATES_PER_CALL; i++) {
+            result.add(OBJECT_MAPPER.createObjectNode()
+                    .put("candidate", "candidate:" + (1000 + i) + " 1 UDP 2015363327 192.168.0." + (10 + i)
+                            + " " + (40000 + i) + " typ host")
+                    .put("sdpMid", String.valueOf(i % 2))
+                    .put("sdpMLineIndex", i % 2));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class SignalingCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void cborRoundTrip() throws Exception {
+        ObjectNode message = objectMapper.createObjectNode();
+        message.put("type", "processAnswer");
+        message.put("sdpAnswer", "v=0\r\no=- 1 1 IN IP4 0.0.0.0\r\n");
+
+        byte[] encoded = SignalingCodec.encodeCbor(message);
+        JsonNode decoded = SignalingCodec.decodeCbor(ByteBuffer.wrap(encoded));
+
+        assertThat(decoded).isEqualTo(message);
+        assertThat(encoded.length).isLessThan(SignalingCodec.encodeJson(message).length());
+    }
+
+    @Test
+    void encodeFollowsNegotiatedProtocol() throws Exception {
+        ObjectNode message = objectMapper.createObjectNode().put("type", "joined");
+
+        WebSocketSession jsonSession = mock(WebSocketSession.class);
+        WebSocketSession cborSession = mock(WebSocketSession.class);
+        given(cborSession.getAcceptedProtocol()).willReturn(SignalingCodec.CBOR_PROTOCOL);
+
+        WebSocketMessage<?> text = SignalingCodec.encode(jsonSession, message);
+        WebSocketMessage<?> binary = SignalingCodec.encode(cborSession, message);
+
+        assertThat(text).isInstanceOf(TextMessage.class);
+        assertThat(SignalingCodec.decodeJson(((TextMessage) text).getPayload())).isEqualTo(message);
+        assertThat(binary).isInstanceOf(BinaryMessage.class);
+        assertThat(SignalingCodec.decodeCbor(((BinaryMessage) binary).getPayload())).isEqualTo(message);
+    }
+}
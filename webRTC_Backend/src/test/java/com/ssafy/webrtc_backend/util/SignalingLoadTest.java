@@ -0,0 +1,254 @@
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.webrtc_backend.service.KurentoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.convention.TestBean;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JSON / CBOR 시그널링 부하 비교 (./gradlew loadTest).
+ * 프로토콜별로 CONNECTIONS 개의 WebSocket 연결을 열고 각 연결에서 통화 1회 설정을 동시에 수행한다.
+ * 통화 1회당 양방향 전송 바이트와, Tomcat 요청 스레드(http-nio-*)의 CPU 시간을 수신 메시지 수로 나눈 값을 출력한다.
+ * Kurento 는 고정 응답 스텁으로 대체하므로 미디어 서버 호출 비용은 포함하지 않는다.
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SignalingLoadTest {
+
+    private static final int CONNECTIONS = 200;
+    private static final int CLIENT_THREADS = 16;
+    private static final int WARMUP_ROUNDS = 3;
+
+    @LocalServerPort
+    private int port;
+
+    @TestBean
+    private KurentoService kurentoService;
+
+    @Autowired
+    private SignalingHandler signalingHandler;
+
+    static KurentoService kurentoService() {
+        return new StubKurentoService();
+    }
+
+    @BeforeEach
+    void setUp() {
+        ((StubKurentoService) kurentoService).signalingHandler = signalingHandler;
+    }
+
+    @Test
+    void compareProtocols() throws Exception {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(SignalingCodec.JSON_PROTOCOL);
+            run(SignalingCodec.CBOR_PROTOCOL);
+        }
+
+        Result json = run(SignalingCodec.JSON_PROTOCOL);
+        Result cbor = run(SignalingCodec.CBOR_PROTOCOL);
+
+        System.out.printf("%n[signaling load] connections=%d, 수신 메시지/통화=%d%n",
+                CONNECTIONS, CallSetupFixture.CLIENT_MESSAGES_PER_CALL);
+        json.print();
+        cbor.print();
+
+        assertThat(cbor.bytesPerCall()).isLessThan(json.bytesPerCall());
+    }
+
+    /**
+     * 연결을 모두 연 뒤 통화 설정을 동시에 수행하고, 그 구간의 서버 CPU 시간을 측정
+     */
+    private Result run(String protocol) throws Exception {
+        StandardWebSocketClient client = new StandardWebSocketClient();
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol(protocol);
+        URI uri = URI.create("ws://localhost:" + port + "/signaling");
+
+        List<CallClient> clients = new ArrayList<>();
+        for (int i = 0; i < CONNECTIONS; i++) {
+            CallClient callClient = new CallClient();
+            callClient.session = client.execute(callClient, headers, uri).get(5, TimeUnit.SECONDS);
+            assertThat(callClient.session.getAcceptedProtocol()).isEqualTo(protocol);
+            clients.add(callClient);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENT_THREADS);
+        long cpuBefore = serverCpuNanos();
+        try {
+            List<Future<?>> calls = new ArrayList<>();
+            for (CallClient callClient : clients) {
+                calls.add(executor.submit(() -> {
+                    callClient.callSetup();
+                    return null;
+                }));
+            }
+            for (Future<?> call : calls) {
+                call.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+        long cpuNanos = serverCpuNanos() - cpuBefore;
+
+        long bytes = 0;
+        for (CallClient callClient : clients) {
+            bytes += callClient.sentBytes + callClient.receivedBytes.get();
+            callClient.session.close();
+        }
+        return new Result(protocol, bytes, cpuNanos);
+    }
+
+    /**
+     * Tomcat 요청 처리 스레드의 누적 CPU 시간
+     */
+    private static long serverCpuNanos() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long total = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("http-nio-")) {
+                long cpu = threads.getThreadCpuTime(thread.getId());
+                if (cpu > 0) {
+                    total += cpu;
+                }
+            }
+        }
+        return total;
+    }
+
+    private record Result(String protocol, long bytes, long cpuNanos) {
+
+        long bytesPerCall() {
+            return bytes / CONNECTIONS;
+        }
+
+        double cpuMicrosPerMessage() {
+            return cpuNanos / 1_000.0 / (CONNECTIONS * (long) CallSetupFixture.CLIENT_MESSAGES_PER_CALL);
+        }
+
+        void print() {
+            System.out.printf("[signaling load] %-15s bytes/call=%6d  server CPU/message=%7.2f µs%n",
+                    protocol, bytesPerCall(), cpuMicrosPerMessage());
+        }
+    }
+
+    /**
+     * 연결 하나에서 통화 설정 메시지를 순서대로 주고받는 클라이언트
+     */
+    private static class CallClient extends AbstractWebSocketHandler {
+
+        private final BlockingQueue<WebSocketMessage<?>> messages = new LinkedBlockingQueue<>();
+        private final AtomicLong receivedBytes = new AtomicLong();
+        private WebSocketSession session;
+        private long sentBytes;
+
+        void callSetup() throws Exception {
+            List<JsonNode> outbound = CallSetupFixture.clientMessages();
+
+            // join → joined, call → startCommunication
+            send(outbound.get(0));
+            expect(1);
+            send(outbound.get(1));
+            expect(1);
+
+            // processAnswer 와 onIceCandidate 는 응답 없음, ICE Candidate 는 서버가 푸시
+            for (JsonNode message : outbound.subList(2, outbound.size())) {
+                send(message);
+            }
+            expect(CallSetupFixture.ICE_CANDIDATES_PER_CALL);
+        }
+
+        private void send(JsonNode message) throws Exception {
+            WebSocketMessage<?> encoded = SignalingCodec.encode(session, message);
+            sentBytes += encoded.getPayloadLength();
+            session.sendMessage(encoded);
+        }
+
+        private void expect(int count) throws InterruptedException {
+            for (int i = 0; i < count; i++) {
+                assertThat(messages.poll(10, TimeUnit.SECONDS)).as("서버 응답").isNotNull();
+            }
+        }
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            receivedBytes.addAndGet(message.getPayload().getBytes(StandardCharsets.UTF_8).length);
+            messages.add(message);
+        }
+
+        @Override
+        protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+            receivedBytes.addAndGet(message.getPayloadLength());
+            messages.add(message);
+        }
+    }
+
+    /**
+     * Kurento 호출 없이 고정 SDP 를 반환하고, 받은 ICE Candidate 를 서버 푸시로 돌려준다
+     */
+    private static class StubKurentoService extends KurentoService {
+
+        private volatile SignalingHandler signalingHandler;
+
+        @Override
+        public void init() {
+        }
+
+        @Override
+        public void cleanup() {
+        }
+
+        @Override
+        public void joinRoom(String sessionId, String roomId, WebSocketSession session) {
+        }
+
+        @Override
+        public String startCommunication(String sessionId) {
+            return CallSetupFixture.SDP;
+        }
+
+        @Override
+        public void processAnswer(String sessionId, String sdpAnswer) {
+        }
+
+        @Override
+        public void addIceCandidate(String sessionId, JsonNode candidateData) {
+            signalingHandler.sendIceCandidate(sessionId, candidateData);
+        }
+
+        @Override
+        public void leaveRoom(String sessionId) {
+        }
+
+        @Override
+        public void reclaimStaleSessions() {
+        }
+    }
+}
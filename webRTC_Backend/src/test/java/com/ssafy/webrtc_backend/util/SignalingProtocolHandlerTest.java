@@ -0,0 +1,75 @@
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.webrtc_backend.service.KurentoService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class SignalingProtocolHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private KurentoService kurentoService;
+    private SignalingHandler signalingHandler;
+    private SignalingProtocolHandler protocolHandler;
+    private WebSocketSession session;
+    private ObjectNode join;
+
+    @BeforeEach
+    void setUp() {
+        kurentoService = mock(KurentoService.class);
+        signalingHandler = spy(new SignalingHandler(kurentoService));
+        protocolHandler = new SignalingProtocolHandler(signalingHandler, new BinarySignalingHandler(signalingHandler));
+
+        session = mock(WebSocketSession.class);
+        given(session.getId()).willReturn("session-1");
+        given(session.isOpen()).willReturn(true);
+
+        join = objectMapper.createObjectNode().put("type", "join").put("roomId", "room-1");
+    }
+
+    @Test
+    void supportsBothSubProtocols() {
+        assertThat(protocolHandler.getSubProtocols())
+                .containsExactlyInAnyOrder(SignalingCodec.CBOR_PROTOCOL, SignalingCodec.JSON_PROTOCOL);
+    }
+
+    @Test
+    void cborSessionDispatchesBinaryMessage() throws Exception {
+        given(session.getAcceptedProtocol()).willReturn(SignalingCodec.CBOR_PROTOCOL);
+        BinaryMessage message = new BinaryMessage(SignalingCodec.encodeCbor(join));
+
+        protocolHandler.handleMessage(session, message);
+
+        verify(signalingHandler).dispatch(session, join);
+        verify(signalingHandler, never()).handleTextMessage(any(), any());
+        verify(kurentoService).joinRoom(eq("session-1"), eq("room-1"), any());
+        verify(session).sendMessage(argThat(sent -> sent instanceof BinaryMessage));
+    }
+
+    @Test
+    void sessionWithoutProtocolUsesJson() throws Exception {
+        TextMessage message = new TextMessage(SignalingCodec.encodeJson(join));
+
+        protocolHandler.handleMessage(session, message);
+
+        verify(signalingHandler).handleTextMessage(session, message);
+        verify(signalingHandler).dispatch(session, join);
+        verify(kurentoService).joinRoom(eq("session-1"), eq("room-1"), any());
+        verify(session).sendMessage(argThat(sent -> sent instanceof TextMessage));
+    }
+}
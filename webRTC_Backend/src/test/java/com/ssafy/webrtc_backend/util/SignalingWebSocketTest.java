@@ -0,0 +1,120 @@
+package com.ssafy.webrtc_backend.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.ssafy.webrtc_backend.service.KurentoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.AbstractWebSocketHandler;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 실제 핸드셰이크로 서브프로토콜이 협상되는지 확인 (Kurento 는 모킹)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class SignalingWebSocketTest {
+
+    @LocalServerPort
+    private int port;
+
+    @MockitoBean
+    private KurentoService kurentoService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void cborClientNegotiatesBinaryProtocol() throws Exception {
+        WebSocketHttpHeaders headers = new WebSocketHttpHeaders();
+        headers.setSecWebSocketProtocol(SignalingCodec.CBOR_PROTOCOL);
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect(client, headers);
+
+        try {
+            assertThat(session.getAcceptedProtocol()).isEqualTo(SignalingCodec.CBOR_PROTOCOL);
+
+            session.sendMessage(new BinaryMessage(SignalingCodec.encodeCbor(join())));
+
+            WebSocketMessage<?> reply = client.next();
+            assertThat(reply).isInstanceOf(BinaryMessage.class);
+            JsonNode joined = SignalingCodec.decodeCbor((ByteBuffer) reply.getPayload());
+            assertThat(joined.get("type").asText()).isEqualTo("joined");
+            assertThat(joined.get("roomId").asText()).isEqualTo("room-1");
+            verify(kurentoService, timeout(5_000)).joinRoom(anyString(), eq("room-1"), any());
+        } finally {
+            session.close();
+        }
+    }
+
+    @Test
+    void clientWithoutSubProtocolKeepsJson() throws Exception {
+        RecordingHandler client = new RecordingHandler();
+        WebSocketSession session = connect(client, new WebSocketHttpHeaders());
+
+        try {
+            assertThat(session.getAcceptedProtocol()).isNullOrEmpty();
+
+            session.sendMessage(new TextMessage(SignalingCodec.encodeJson(join())));
+
+            WebSocketMessage<?> reply = client.next();
+            assertThat(reply).isInstanceOf(TextMessage.class);
+            JsonNode joined = SignalingCodec.decodeJson((String) reply.getPayload());
+            assertThat(joined.get("type").asText()).isEqualTo("joined");
+        } finally {
+            session.close();
+        }
+    }
+
+    private WebSocketSession connect(RecordingHandler handler, WebSocketHttpHeaders headers) throws Exception {
+        URI uri = URI.create("ws://localhost:" + port + "/signaling");
+        return new StandardWebSocketClient().execute(handler, headers, uri).get(5, TimeUnit.SECONDS);
+    }
+
+    private ObjectNode join() {
+        return objectMapper.createObjectNode().put("type", "join").put("roomId", "room-1");
+    }
+
+    /**
+     * 수신한 메시지를 순서대로 보관하는 클라이언트 핸들러
+     */
+    private static class RecordingHandler extends AbstractWebSocketHandler {
+
+        private final BlockingQueue<WebSocketMessage<?>> messages = new LinkedBlockingQueue<>();
+
+        @Override
+        protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+            messages.add(message);
+        }
+
+        @Override
+        protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
+            messages.add(message);
+        }
+
+        WebSocketMessage<?> next() throws InterruptedException {
+            WebSocketMessage<?> message = messages.poll(5, TimeUnit.SECONDS);
+            assertThat(message).as("서버 응답").isNotNull();
+            return message;
+        }
+    }
+}
@@ -3,6 +3,9 @@
 import React, { useState, useRef, useEffect } from 'react';
 import './App.css';
 
+// ICE 재시작 대기 시간 (1초부터 서버가 알려준 시도 횟수마다 2배, 횟수 제한은 서버가 관리)
+const ICE_RESTART_BASE_DELAY_MS = 1000;
+
 function App() {
   // 상태 관리
   const [connected, setConnected] = useState(false);
@@ -18,6 +21,7 @@ function App() {
   const localStreamRef = useRef(null);
   const wsRef = useRef(null);
   const pcRef = useRef(null);
+  const iceRestartTimerRef = useRef(null);
 
   // cleanup
   useEffect(() => {
@@ -30,6 +34,9 @@ function App() {
   const cleanup = () => {
     console.log('🧹 리소스 정리 시작');
     
+    clearTimeout(iceRestartTimerRef.current);
+    iceRestartTimerRef.current = null;
+    
     if (localStreamRef.current) {
       localStreamRef.current.getTracks().forEach(track => {
         track.stop();
@@ -127,6 +134,12 @@ function App() {
         setConnected(false);
         setInCall(false);
         setConnectionState('disconnected');
+        clearTimeout(iceRestartTimerRef.current);
+        
+        // 서버가 미디어 연결 실패로 세션을 회수한 경우 (재참가하지 않음)
+        if (event.reason === 'sessionExpired') {
+          handleError('세션 만료: 미디어 연결에 실패했습니다');
+        }
       };
       
       websocket.onmessage = async (event) => {
@@ -168,6 +181,11 @@ function App() {
         await handleIceCandidate(message.candidate);
         break;
         
+      case 'restartIce':
+        console.warn('🔁 ICE 재시작 요청:', message.state, message.attempt);
+        scheduleIceRestart(message.attempt);
+        break;
+        
       case 'error':
         console.error('❌ 서버 에러:', message.message);
         handleError('서버 에러: ' + message.message);
@@ -178,6 +196,42 @@ function App() {
     }
   };
 
+  // ICE 재시작 예약 (서버 시도 횟수 기준 지수 백오프)
+  const scheduleIceRestart = (attempt = 1) => {
+    if (iceRestartTimerRef.current) {
+      return;
+    }
+    
+    const delay = ICE_RESTART_BASE_DELAY_MS * 2 ** (attempt - 1);
+    console.log(`🔁 ICE 재시작 ${attempt}회차: ${delay}ms 후 재참가`);
+    
+    iceRestartTimerRef.current = setTimeout(() => {
+      iceRestartTimerRef.current = null;
+      rejoin();
+    }, delay);
+  };
+
+  // 방 재참가 (새 엔드포인트로 ICE 재시작)
+  const rejoin = () => {
+    if (pcRef.current) {
+      pcRef.current.close();
+      pcRef.current = null;
+    }
+    
+    if (remoteVideoRef.current) {
+      remoteVideoRef.current.srcObject = null;
+    }
+    setInCall(false);
+    
+    if (wsRef.current?.readyState === WebSocket.OPEN) {
+      console.log('🏠 방 재참가 요청:', roomId);
+      wsRef.current.send(JSON.stringify({
+        type: 'join',
+        roomId: roomId
+      }));
+    }
+  };
+
   // PeerConnection 생성
   const createPeerConnection = () => {
     console.log('📡 PeerConnection 생성');